@@ -0,0 +1,47 @@
+package net.thiccaxe.gradient;
+
+import net.kyori.adventure.text.format.TextColor;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Best-effort, thread-safe cache of the colors emitted by gradient tags.
+ *
+ * <p>The table is direct-mapped: each RGB value hashes to a single slot, and a miss overwrites whatever was there.
+ * Repeated colors usually come back as the same instance, but identity is not stable: values that share a slot
+ * evict each other, so callers must not rely on {@code ==} between colors.</p>
+ *
+ * <p>Slots are read and written without locking; {@link TextColor} is immutable, so a racing reader only ever
+ * sees a miss or a complete color.</p>
+ */
+final class GradientColorCache {
+    static final GradientColorCache INSTANCE = new GradientColorCache(4096);
+
+    private final TextColor[] colors;
+
+    GradientColorCache(final int slots) {
+        if (Integer.bitCount(slots) != 1) {
+            throw new IllegalArgumentException("slots (" + slots + ") must be a power of two");
+        }
+        this.colors = new TextColor[slots];
+    }
+
+    private static int mix(final int hash) {
+        final int h = hash * 0x9e3779b9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * Get a color for a packed RGB value, reusing a cached instance when there is one.
+     */
+    @NotNull TextColor color(final int rgb) {
+        final int value = rgb & 0xffffff;
+        final int slot = mix(value) & (this.colors.length - 1);
+        final TextColor cached = this.colors[slot];
+        if (cached != null && cached.value() == value) {
+            return cached;
+        }
+        final TextColor color = TextColor.color(value);
+        this.colors[slot] = color;
+        return color;
+    }
+}
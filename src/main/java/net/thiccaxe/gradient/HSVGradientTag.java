@@ -138,6 +138,13 @@ abstract class AbstractColorChangingTag implements Modifying, Examinable {
             .unknownMapper(x -> "_") // every unknown component gets a single colour
             .build();
 
+    // spans at least this long are colored in chunks of PARALLEL_CHUNK_SIZE codepoints when the tag supports it
+    private static final int PARALLEL_THRESHOLD = 8192;
+    private static final int PARALLEL_CHUNK_SIZE = 2048;
+
+    // codepoint counts of the strings measured during visit(), keyed by identity so apply() can reuse them
+    private final Map<String, Integer> codePointCounts = new IdentityHashMap<>();
+
     private boolean visited;
     private int size = 0;
     private int disableApplyingColorDepth = -1;
@@ -146,6 +153,35 @@ abstract class AbstractColorChangingTag implements Modifying, Examinable {
         return this.size;
     }
 
+    /**
+     * Count the codepoints in {@code text}, avoiding codepoint work for text without surrogates.
+     *
+     * @param text the text to measure
+     * @return the number of codepoints
+     */
+    static int codePointCount(final @NotNull String text) {
+        final int length = text.length();
+        for (int i = 0; i < length; i++) {
+            if (Character.isSurrogate(text.charAt(i))) {
+                return text.codePointCount(i, length) + i;
+            }
+        }
+        return length;
+    }
+
+    private int measure(final @NotNull String text) {
+        final int len = codePointCount(text);
+        this.codePointCounts.put(text, len);
+        return len;
+    }
+
+    // best-effort: components built from a different String than the one visit() saw (rebuilt placeholders,
+    // merged empty components) are not in the table and get counted again
+    private int codePointLength(final @NotNull String text) {
+        final Integer known = this.codePointCounts.get(text);
+        return known != null ? known : codePointCount(text);
+    }
+
     @Override
     public final void visit(final @NotNull Node current, final int depth) {
         if (this.visited) {
@@ -154,12 +190,12 @@ abstract class AbstractColorChangingTag implements Modifying, Examinable {
 
         if (current instanceof ValueNode) {
             final String value = ((ValueNode) current).value();
-            this.size += value.codePointCount(0, value.length());
+            this.size += this.measure(value);
         } else if (current instanceof TagNode) {
             final TagNode tag = (TagNode) current;
             if (tag.tag() instanceof Inserting) {
                 // ComponentTransformation.apply() returns the value of the component placeholder
-                LENGTH_CALCULATOR.flatten(((Inserting) tag.tag()).value(), s -> this.size += s.codePointCount(0, s.length()));
+                LENGTH_CALCULATOR.flatten(((Inserting) tag.tag()).value(), s -> this.size += this.measure(s));
             }
         }
     }
@@ -180,12 +216,8 @@ abstract class AbstractColorChangingTag implements Modifying, Examinable {
             // This component has its own color applied, which overrides ours
             // We still want to keep track of where we are though if this is text
             if (current instanceof TextComponent) {
-                final String content = ((TextComponent) current).content();
-                final int len = content.codePointCount(0, content.length());
-                for (int i = 0; i < len; i++) {
-                    // increment our color index
-                    this.advanceColor();
-                }
+                // increment our color index
+                this.advanceColor(this.codePointLength(((TextComponent) current).content()));
             }
             return current.children(Collections.emptyList());
         }
@@ -198,12 +230,24 @@ abstract class AbstractColorChangingTag implements Modifying, Examinable {
             final TextComponent.Builder parent = Component.text();
 
             // apply
-            final int[] holder = new int[1];
-            for (final PrimitiveIterator.OfInt it = content.codePoints().iterator(); it.hasNext();) {
-                holder[0] = it.nextInt();
-                final Component comp = Component.text(new String(holder, 0, 1), current.style().color(this.color()));
-                this.advanceColor();
-                parent.append(comp);
+            final int len = this.codePointLength(content);
+            if (this.parallel() && len >= PARALLEL_THRESHOLD) {
+                parent.append(this.colorChunked(content, current.style(), len));
+            } else if (len == content.length()) {
+                // no surrogates, every char is a codepoint
+                for (int i = 0; i < content.length(); i++) {
+                    final Component comp = Component.text(String.valueOf(content.charAt(i)), current.style().color(this.color()));
+                    this.advanceColor();
+                    parent.append(comp);
+                }
+            } else {
+                final int[] holder = new int[1];
+                for (final PrimitiveIterator.OfInt it = content.codePoints().iterator(); it.hasNext();) {
+                    holder[0] = it.nextInt();
+                    final Component comp = Component.text(new String(holder, 0, 1), current.style().color(this.color()));
+                    this.advanceColor();
+                    parent.append(comp);
+                }
             }
 
             return parent.build();
@@ -216,6 +260,28 @@ abstract class AbstractColorChangingTag implements Modifying, Examinable {
         return Component.empty().mergeStyle(current);
     }
 
+    private @NotNull List<Component> colorChunked(final @NotNull String content, final @NotNull Style style, final int len) {
+        // without surrogates every char is a codepoint, so we can skip decoding
+        final int[] codePoints = len == content.length() ? null : content.codePoints().toArray();
+        final int chunks = (len + PARALLEL_CHUNK_SIZE - 1) / PARALLEL_CHUNK_SIZE;
+        // each chunk colors from its own offset; the ordered stream stitches them back together in order
+        final List<Component> colored = IntStream.range(0, chunks).parallel()
+                .mapToObj(chunk -> {
+                    final int start = chunk * PARALLEL_CHUNK_SIZE;
+                    final int end = Math.min(len, start + PARALLEL_CHUNK_SIZE);
+                    final Component[] part = new Component[end - start];
+                    for (int i = start; i < end; i++) {
+                        final String text = codePoints == null ? String.valueOf(content.charAt(i)) : new String(codePoints, i, 1);
+                        part[i - start] = Component.text(text, style.color(this.color(i)));
+                    }
+                    return part;
+                })
+                .flatMap(Arrays::stream)
+                .toList();
+        this.advanceColor(len);
+        return colored;
+    }
+
     // The lifecycle
 
     protected abstract void init();
@@ -225,6 +291,17 @@ abstract class AbstractColorChangingTag implements Modifying, Examinable {
      */
     protected abstract void advanceColor();
 
+    /**
+     * Advance the active color by {@code count} steps.
+     *
+     * @param count the number of steps
+     */
+    protected void advanceColor(final int count) {
+        for (int i = 0; i < count; i++) {
+            this.advanceColor();
+        }
+    }
+
     /**
      * Get the current color, without side-effects.
      *
@@ -233,6 +310,25 @@ abstract class AbstractColorChangingTag implements Modifying, Examinable {
      */
     protected abstract TextColor color();
 
+    /**
+     * Get the color {@code offset} steps past the current one, without side-effects.
+     *
+     * <p>Only used when {@link #parallel()} is true, and may be called from several threads at once.</p>
+     *
+     * @param offset the number of steps past the current color
+     * @return the color at that offset
+     */
+    protected abstract TextColor color(final int offset);
+
+    /**
+     * Whether large text spans should be colored in parallel chunks using {@link #color(int)}.
+     *
+     * @return true to color large spans in parallel
+     */
+    protected boolean parallel() {
+        return false;
+    }
+
     // misc
 
     @Override
@@ -263,9 +359,47 @@ final class HSVGradientTag extends AbstractColorChangingTag {
     static double clampDouble(double d, double min, double max) {
         return Math.min(Math.max(d, min), max);
     }
+
+    /**
+     * Same conversion as {@link TextColor#color(HSVLike)}, without creating the color.
+     */
+    static int hsvToRgb(final HSVLike hsv) {
+        final float s = hsv.s();
+        final float v = hsv.v();
+        if (s == 0) {
+            return packRgb(v, v, v);
+        }
+        final float h = hsv.h() * 6;
+        final int i = (int) Math.floor(h);
+        final float f = h - i;
+        final float p = v * (1 - s);
+        final float q = v * (1 - s * f);
+        final float t = v * (1 - s * (1 - f));
+        return switch (i) {
+            case 0 -> packRgb(v, t, p);
+            case 1 -> packRgb(q, v, p);
+            case 2 -> packRgb(p, v, t);
+            case 3 -> packRgb(p, q, v);
+            case 4 -> packRgb(t, p, v);
+            default -> packRgb(v, p, q);
+        };
+    }
+
+    private static int packRgb(final float r, final float g, final float b) {
+        return ((int) (r * 255) & 0xff) << 16 | ((int) (g * 255) & 0xff) << 8 | ((int) (b * 255) & 0xff);
+    }
     private static final String GRADIENT = "gradient";
 
-    static final TagResolver RESOLVER = TagResolver.resolver("gr", HSVGradientTag::create);
+    static final TagResolver RESOLVER = TagResolver.resolver("gr", (args, ctx) -> create(args, ctx, false));
+    /**
+     * Same as {@link #RESOLVER} under {@code gr_parallel}, but very large spans are colored in parallel
+     * on the common fork-join pool while the caller blocks.
+     *
+     * <p>This only parallelizes coloring. With MiniMessage's default post-processor, compacting the result
+     * dominates deserialization of large spans (about 95% of the time for a 120k character span), so the mode
+     * only pays off when the post-processor is disabled and more than one core is available.</p>
+     */
+    static final TagResolver PARALLEL_RESOLVER = TagResolver.resolver("gr_parallel", (args, ctx) -> create(args, ctx, true));
 
     private int index = 0;
 
@@ -275,9 +409,10 @@ final class HSVGradientTag extends AbstractColorChangingTag {
     private GradientColorGenerator<HSVLike, ColorSpaceInterpolator<HSVLike>> generator;
 
     private final TextColor[] colors;
+    private final boolean parallel;
     private @Range(from = -1, to = 1) double phase;
 
-    static Tag create(final ArgumentQueue args, final Context ctx) {
+    static Tag create(final ArgumentQueue args, final Context ctx, final boolean parallel) {
         double phase = 0;
         final List<TextColor> textColors;
         if (args.hasNext()) {
@@ -307,10 +442,11 @@ final class HSVGradientTag extends AbstractColorChangingTag {
             textColors = Collections.emptyList();
         }
 
-        return new HSVGradientTag(phase, textColors);
+        return new HSVGradientTag(phase, textColors, parallel);
     }
 
-    private HSVGradientTag(final double phase, final List<TextColor> colors) {
+    private HSVGradientTag(final double phase, final List<TextColor> colors, final boolean parallel) {
+        this.parallel = parallel;
         if (colors.isEmpty()) {
             this.colors = new TextColor[]{TextColor.color(0xffffff), TextColor.color(0x000000)};
         } else {
@@ -353,20 +489,40 @@ final class HSVGradientTag extends AbstractColorChangingTag {
         this.index++;
     }
 
+    @Override
+    protected void advanceColor(final int count) {
+        this.index += count;
+    }
+
     @Override
     protected TextColor color() {
 //        System.out.println(this.index);
+        return this.colorAtIndex(this.index);
+    }
+
+    @Override
+    protected TextColor color(final int offset) {
+        return this.colorAtIndex(this.index + offset);
+    }
+
+    @Override
+    protected boolean parallel() {
+        return this.parallel;
+    }
+
+    private TextColor colorAtIndex(final int index) {
         // from [0, this.colors.length - 1], select the position in the gradient
         // we will wrap around in order to preserve an even cycle as would be seen with non-zero phases
-        final double position = ((this.index * this.multiplier) + this.phase);
-        return TextColor.color(this.generator.colorAt(position));
+        final double position = ((index * this.multiplier) + this.phase);
+        return GradientColorCache.INSTANCE.color(hsvToRgb(this.generator.colorAt(position)));
     }
 
     @Override
     public @NotNull Stream<? extends ExaminableProperty> examinableProperties() {
         return Stream.of(
                 ExaminableProperty.of("phase", this.phase),
-                ExaminableProperty.of("colors", this.colors)
+                ExaminableProperty.of("colors", this.colors),
+                ExaminableProperty.of("parallel", this.parallel)
         );
     }
 
@@ -377,12 +533,13 @@ final class HSVGradientTag extends AbstractColorChangingTag {
         final HSVGradientTag that = (HSVGradientTag) other;
         return this.index == that.index
                 && this.phase == that.phase
+                && this.parallel == that.parallel
                 && Arrays.equals(this.colors, that.colors);
     }
 
     @Override
     public int hashCode() {
-        int result = Objects.hash(this.index, this.phase);
+        int result = Objects.hash(this.index, this.phase, this.parallel);
         result = 31 * result + Arrays.hashCode(this.colors);
         return result;
     }
@@ -73,7 +73,7 @@ public class Main {
         System.out.println(ANSIComponentSerializer.ansi().serialize(compBuilder2.build()));
         MiniMessage mm = MiniMessage.builder()
                 .tags(TagResolver.builder()
-                        .resolvers(HSVGradientTag.RESOLVER)
+                        .resolvers(HSVGradientTag.RESOLVER, HSVGradientTag.PARALLEL_RESOLVER)
                         .resolver(StandardTags.color())
                         .resolver(StandardTags.gradient())
                         .resolvers(StandardTags.newline())
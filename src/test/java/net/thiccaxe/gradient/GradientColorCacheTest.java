@@ -0,0 +1,49 @@
+package net.thiccaxe.gradient;
+
+import net.kyori.adventure.text.format.TextColor;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class GradientColorCacheTest {
+    @Test
+    void hitReturnsSameInstance() {
+        final GradientColorCache cache = new GradientColorCache(16);
+        final TextColor first = cache.color(0x25f9d2);
+
+        assertEquals(0x25f9d2, first.value());
+        assertSame(first, cache.color(0x25f9d2));
+    }
+
+    @Test
+    void ignoresAlphaBits() {
+        final GradientColorCache cache = new GradientColorCache(16);
+
+        assertSame(cache.color(0x25f9d2), cache.color(0xff25f9d2));
+    }
+
+    @Test
+    void sharedSlotEvicts() {
+        // a single slot, so every value collides
+        final GradientColorCache cache = new GradientColorCache(1);
+        final TextColor first = cache.color(0x06302a);
+        final TextColor other = cache.color(0xed582a);
+        final TextColor again = cache.color(0x06302a);
+
+        assertEquals(0xed582a, other.value());
+        assertEquals(first, again);
+        assertNotSame(first, again);
+        assertSame(again, cache.color(0x06302a));
+    }
+
+    @Test
+    void rejectsSlotCountsThatAreNotPowersOfTwo() {
+        assertThrows(IllegalArgumentException.class, () -> new GradientColorCache(0));
+        assertThrows(IllegalArgumentException.class, () -> new GradientColorCache(3));
+        assertThrows(IllegalArgumentException.class, () -> new GradientColorCache(4095));
+        assertThrows(IllegalArgumentException.class, () -> new GradientColorCache(-4096));
+    }
+}
@@ -0,0 +1,116 @@
+package net.thiccaxe.gradient;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.kyori.adventure.text.format.TextColor;
+import net.kyori.adventure.text.minimessage.MiniMessage;
+import net.kyori.adventure.text.minimessage.tag.resolver.Placeholder;
+import net.kyori.adventure.text.minimessage.tag.resolver.TagResolver;
+import net.kyori.adventure.text.minimessage.tag.standard.StandardTags;
+import net.kyori.adventure.util.HSVLike;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class HSVGradientTagTest {
+    private static final MiniMessage MINI_MESSAGE = MiniMessage.builder()
+            .tags(TagResolver.builder()
+                    .resolvers(HSVGradientTag.RESOLVER, HSVGradientTag.PARALLEL_RESOLVER)
+                    .resolver(StandardTags.color())
+                    .build())
+            .build();
+
+    @Test
+    void parallelMatchesSequential() {
+        // one run long enough to be chunked, with surrogate pairs straddling chunk boundaries
+        final StringBuilder run = new StringBuilder();
+        for (int i = 0; run.codePointCount(0, run.length()) < 9000; i++) {
+            run.append(i % 5 == 0 ? "🌈" : "abc");
+        }
+        // the chunked run starts after an overridden child and stays below the end of the gradient, where colors still change
+        final String body = "head<red>overridden</red>" + run + "<blue>also overridden</blue>" + "x".repeat(9000);
+
+        final Component sequential = MINI_MESSAGE.deserialize("<gr:#06302a:#ed582a:0.1>" + body + "</gr>");
+        final Component parallel = MINI_MESSAGE.deserialize("<gr_parallel:#06302a:#ed582a:0.1>" + body + "</gr_parallel>");
+
+        assertEquals(sequential, parallel);
+    }
+
+    @Test
+    void insertedSurrogatesKeepBaselineColors() {
+        // colors recorded from the original implementation, before lengths were reused between visit() and apply()
+        final Component component = MINI_MESSAGE.deserialize(
+                "<gr:#06302a:#ed582a>ab<red>c\uD83C\uDF08d</red><p>e\uD83C\uDF08f</gr>",
+                Placeholder.component("p", Component.text("\uD83C\uDF08x\uD83C\uDF08"))
+        );
+
+        assertEquals(List.of(
+                "a=#06302a", "b=#08422b", "c\uD83C\uDF08d=#ff5555",
+                "\uD83C\uDF08=#4c8e15", "x=#7aa119", "\uD83C\uDF08=#b0b41d",
+                "e=#c79f21", "\uD83C\uDF08=#da7f25", "f=#ed5729"
+        ), leaves(component));
+    }
+
+    @Test
+    void hsvToRgbMatchesTextColor() {
+        final List<HSVLike> samples = new ArrayList<>();
+        // grey, the top of the hue range, and both sides of every sector boundary
+        samples.add(hsv(0.5f, 0f, 0.5f));
+        samples.add(hsv(1f, 0.8f, 0.9f));
+        for (int sector = 0; sector <= 6; sector++) {
+            final float h = sector / 6f;
+            samples.add(hsv(h, 1f, 1f));
+            samples.add(hsv(Math.nextDown(h), 0.7f, 0.6f));
+            samples.add(hsv(Math.nextUp(h), 0.7f, 0.6f));
+        }
+        for (int h = 0; h <= 32; h++) {
+            for (int s = 0; s <= 8; s++) {
+                for (int v = 0; v <= 8; v++) {
+                    samples.add(hsv(h / 32f, s / 8f, v / 8f));
+                }
+            }
+        }
+        // out of range, which HSVLike.hsvLike() would reject but custom implementations can produce
+        samples.add(hsv(1.3f, 0.5f, 0.5f));
+        samples.add(hsv(0.2f, -0.2f, 1.5f));
+
+        for (final HSVLike sample : samples) {
+            assertEquals(TextColor.color(sample).value(), HSVGradientTag.hsvToRgb(sample),
+                    () -> "h=" + sample.h() + " s=" + sample.s() + " v=" + sample.v());
+        }
+    }
+
+    // HSVLike.hsvLike() validates its input, this one does not
+    private static HSVLike hsv(final float h, final float s, final float v) {
+        return new HSVLike() {
+            @Override
+            public float h() {
+                return h;
+            }
+
+            @Override
+            public float s() {
+                return s;
+            }
+
+            @Override
+            public float v() {
+                return v;
+            }
+        };
+    }
+
+    private static List<String> leaves(final Component component) {
+        final List<String> leaves = new ArrayList<>();
+        if (component instanceof TextComponent && !((TextComponent) component).content().isEmpty()) {
+            leaves.add(((TextComponent) component).content() + "=" + component.color().asHexString());
+        }
+        for (final Component child : component.children()) {
+            leaves.addAll(leaves(child));
+        }
+        return leaves;
+    }
+}